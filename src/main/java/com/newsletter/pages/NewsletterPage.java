@@ -15,40 +15,53 @@ public class NewsletterPage {
 
     private final WebDriver driver;
     private final WebDriverWait wait;
+    private final PageScripts scripts;
 
     // ── Locators ──────────────────────────────────────────────────────────────
 
-    @FindBy(id = "newsletter")
+    private static final String NEWSLETTER_CARD_CSS = "#newsletter";
+    private static final String EMAIL_INPUT_CSS = "#email";
+    private static final String ERROR_CSS = "#error";
+    private static final String HERO_IMAGE_CSS = "#hero-img";
+    private static final String HEADING_CSS = ".text-section h1";
+    private static final String SUBHEADING_CSS = ".text-section > p";
+    private static final String FEATURE_ITEM_1_CSS = "ul li:nth-child(1)";
+    private static final String FEATURE_ITEM_2_CSS = "ul li:nth-child(2)";
+    private static final String FEATURE_ITEM_3_CSS = "ul li:nth-child(3)";
+    private static final String EMAIL_LABEL_CSS = "label[for='email']";
+    private static final String SUBSCRIBE_BUTTON_CSS = "button[type='submit']";
+
+    @FindBy(css = NEWSLETTER_CARD_CSS)
     private WebElement newsletterCard;
 
-    @FindBy(id = "email")
+    @FindBy(css = EMAIL_INPUT_CSS)
     private WebElement emailInput;
 
-    @FindBy(css = "button[type='submit']")
+    @FindBy(css = SUBSCRIBE_BUTTON_CSS)
     private WebElement subscribeButton;
 
-    @FindBy(id = "error")
+    @FindBy(css = ERROR_CSS)
     private WebElement errorText;
 
-    @FindBy(id = "hero-img")
+    @FindBy(css = HERO_IMAGE_CSS)
     private WebElement heroImage;
 
-    @FindBy(css = ".text-section h1")
+    @FindBy(css = HEADING_CSS)
     private WebElement heading;
 
-    @FindBy(css = ".text-section > p")
+    @FindBy(css = SUBHEADING_CSS)
     private WebElement subheading;
 
-    @FindBy(css = "ul li:nth-child(1)")
+    @FindBy(css = FEATURE_ITEM_1_CSS)
     private WebElement featureItem1;
 
-    @FindBy(css = "ul li:nth-child(2)")
+    @FindBy(css = FEATURE_ITEM_2_CSS)
     private WebElement featureItem2;
 
-    @FindBy(css = "ul li:nth-child(3)")
+    @FindBy(css = FEATURE_ITEM_3_CSS)
     private WebElement featureItem3;
 
-    @FindBy(css = "label[for='email']")
+    @FindBy(css = EMAIL_LABEL_CSS)
     private WebElement emailLabel;
 
     // ── Constructor ───────────────────────────────────────────────────────────
@@ -56,16 +69,20 @@ public class NewsletterPage {
     public NewsletterPage(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.scripts = PageScripts.forDriver(driver);
         PageFactory.initElements(driver, this);
     }
 
     // ── Actions ───────────────────────────────────────────────────────────────
 
     public NewsletterPage enterEmail(String email) {
-        wait.until(ExpectedConditions.visibilityOf(emailInput));
-        emailInput.clear();
-        emailInput.sendKeys(email);
-        return this;
+        return StepTimer.time("NewsletterPage.enterEmail", () -> {
+            waitUntilVisible(emailInput, EMAIL_INPUT_CSS);
+            // Typing and clicking stay on the element API: script-driven input is untrusted
+            emailInput.clear();
+            emailInput.sendKeys(email);
+            return this;
+        });
     }
 
     /**
@@ -73,40 +90,47 @@ public class NewsletterPage {
      * Used to test empty/invalid submission behaviour.
      */
     public NewsletterPage submitForm() {
-        wait.until(ExpectedConditions.elementToBeClickable(subscribeButton));
-        subscribeButton.click();
-        return this;
+        return StepTimer.time("NewsletterPage.submitForm", () -> {
+            waitUntilClickable(subscribeButton, SUBSCRIBE_BUTTON_CSS);
+            subscribeButton.click();
+            return this;
+        });
     }
 
     public SuccessPage submitValidEmail(String email) {
-        enterEmail(email);
-        wait.until(ExpectedConditions.elementToBeClickable(subscribeButton));
-        subscribeButton.click();
-        return new SuccessPage(driver);
+        return StepTimer.time("NewsletterPage.submitValidEmail", () -> {
+            enterEmail(email);
+            waitUntilClickable(subscribeButton, SUBSCRIBE_BUTTON_CSS);
+            subscribeButton.click();
+            return new SuccessPage(driver);
+        });
     }
 
     // ── Visibility & State ────────────────────────────────────────────────────
 
     public boolean isNewsletterCardVisible() {
+        if (scripts != null) return scripts.allVisible(NEWSLETTER_CARD_CSS);
         try {
-            return driver.findElement(By.id("newsletter")).isDisplayed();
+            return driver.findElement(By.cssSelector(NEWSLETTER_CARD_CSS)).isDisplayed();
         } catch (Exception e) {
             return false;
         }
     }
 
     public boolean isErrorVisible() {
-        try {
-            wait.until(ExpectedConditions.visibilityOf(errorText));
-            return errorText.isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return StepTimer.time("NewsletterPage.isErrorVisible", () -> {
+            try {
+                waitUntilVisible(errorText, ERROR_CSS);
+                // The batched wait already proved visibility; asking again would cost a round-trip
+                return scripts != null || errorText.isDisplayed();
+            } catch (Exception e) {
+                return false;
+            }
+        });
     }
 
     public String getErrorText() {
-        wait.until(ExpectedConditions.visibilityOf(errorText));
-        return errorText.getText();
+        return visibleText(errorText, ERROR_CSS);
     }
 
     public boolean isEmailInputInErrorState() {
@@ -116,6 +140,7 @@ public class NewsletterPage {
 
 
     public boolean isSubscribeButtonDisplayed() {
+        if (scripts != null) return scripts.allVisible(SUBSCRIBE_BUTTON_CSS);
         try {
             return subscribeButton.isDisplayed();
         } catch (Exception e) {
@@ -124,6 +149,7 @@ public class NewsletterPage {
     }
 
     public boolean isHeroImageDisplayed() {
+        if (scripts != null) return scripts.allVisible(HERO_IMAGE_CSS);
         try {
             return heroImage.isDisplayed();
         } catch (Exception e) {
@@ -134,16 +160,17 @@ public class NewsletterPage {
     // ── Text / Attribute Getters ──────────────────────────────────────────────
 
     public String getHeadingText() {
-        wait.until(ExpectedConditions.visibilityOf(heading));
-        return heading.getText();
+        return visibleText(heading, HEADING_CSS);
     }
 
     public String getSubheadingText() {
-        wait.until(ExpectedConditions.visibilityOf(subheading));
-        return subheading.getText();
+        return visibleText(subheading, SUBHEADING_CSS);
     }
 
     public boolean areAllFeatureItemsVisible() {
+        if (scripts != null) {
+            return scripts.allVisible(FEATURE_ITEM_1_CSS, FEATURE_ITEM_2_CSS, FEATURE_ITEM_3_CSS);
+        }
         try {
             return featureItem1.isDisplayed()
                     && featureItem2.isDisplayed()
@@ -154,8 +181,7 @@ public class NewsletterPage {
     }
 
     public String getEmailLabelText() {
-        wait.until(ExpectedConditions.visibilityOf(emailLabel));
-        return emailLabel.getText();
+        return visibleText(emailLabel, EMAIL_LABEL_CSS);
     }
 
     public String getEmailInputPlaceholder() {
@@ -163,12 +189,38 @@ public class NewsletterPage {
     }
 
     public String getSubscribeButtonText() {
-        wait.until(ExpectedConditions.visibilityOf(subscribeButton));
-        return subscribeButton.getText();
+        return visibleText(subscribeButton, SUBSCRIBE_BUTTON_CSS);
     }
 
     public String getHeroImageSrc() {
-        wait.until(ExpectedConditions.visibilityOf(heroImage));
+        waitUntilVisible(heroImage, HERO_IMAGE_CSS);
         return heroImage.getAttribute("src");
     }
+
+    // ── Waits ─────────────────────────────────────────────────────────────────
+    // With batched reads each poll is one script call instead of find + isDisplayed (+ isEnabled/getText)
+
+    private void waitUntilVisible(WebElement element, String css) {
+        if (scripts != null) {
+            wait.until(d -> scripts.allVisible(css));
+        } else {
+            wait.until(ExpectedConditions.visibilityOf(element));
+        }
+    }
+
+    private void waitUntilClickable(WebElement element, String css) {
+        if (scripts != null) {
+            wait.until(d -> scripts.clickable(css));
+        } else {
+            wait.until(ExpectedConditions.elementToBeClickable(element));
+        }
+    }
+
+    private String visibleText(WebElement element, String css) {
+        if (scripts != null) {
+            return wait.until(d -> scripts.visibleText(css));
+        }
+        wait.until(ExpectedConditions.visibilityOf(element));
+        return element.getText();
+    }
 }
\ No newline at end of file
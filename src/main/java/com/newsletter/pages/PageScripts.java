@@ -0,0 +1,158 @@
+package com.newsletter.pages;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.Script;
+import org.openqa.selenium.bidi.script.EvaluateResult;
+import org.openqa.selenium.bidi.script.EvaluateResultExceptionValue;
+import org.openqa.selenium.bidi.script.EvaluateResultSuccess;
+import org.openqa.selenium.bidi.script.LocalValue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * PageScripts
+ *
+ * Batched in-page reads for the page objects: one script call replaces
+ * the find/isDisplayed/isEnabled/getText round-trips of the element API.
+ * On by default with {@code -Dtransport=bidi}; {@code -Dbatched.reads}
+ * overrides it either way so all four combinations can be compared.
+ * On a BiDi session the call goes over the WebSocket through the BiDi
+ * script module; on a classic session it is an HTTP executeScript.
+ */
+public final class PageScripts {
+
+    // Unset: batched on BiDi sessions, element API on classic ones
+    private static final boolean BATCHED = batchedByDefault(
+            System.getProperty("batched.reads", ""),
+            System.getProperty("transport", "classic")
+    );
+
+    private static final String VISIBLE =
+            "const visible = el => {"
+            + "  if (!el) return false;"
+            + "  const style = getComputedStyle(el);"
+            + "  return el.getClientRects().length > 0"
+            + "      && style.visibility !== 'hidden' && style.opacity !== '0';"
+            + "};";
+
+    private static final String VISIBLE_TEXT_FN =
+            "(css) => {" + VISIBLE
+            + "  const el = document.querySelector(css);"
+            + "  return visible(el) ? el.innerText.trim() : null;"
+            + "}";
+
+    private static final String ALL_VISIBLE_FN =
+            "(...css) => {" + VISIBLE
+            + "  return css.every(s => visible(document.querySelector(s)));"
+            + "}";
+
+    private static final String CLICKABLE_FN =
+            "(css) => {" + VISIBLE
+            + "  const el = document.querySelector(css);"
+            + "  return visible(el) && !el.disabled;"
+            + "}";
+
+    // Browsing context id per BiDi session, so page objects do not each ask for the window handle
+    private static final Map<WebDriver, String> contexts = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final ThreadLocal<long[]> biDiCalls = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final WebDriver driver;
+    private final Script script;
+    private final String context;
+
+    private PageScripts(WebDriver driver) {
+        this.driver = driver;
+
+        WebDriver raw = driver instanceof WrapsDriver ? ((WrapsDriver) driver).getWrappedDriver() : driver;
+        if (usesBiDi(raw)) {
+            this.script = new Script(raw);
+            this.context = contexts.computeIfAbsent(raw, key -> driver.getWindowHandle());
+        } else {
+            this.script = null;
+            this.context = null;
+        }
+    }
+
+    /**
+     * Batched reads for {@code driver}, or null when {@code batched.reads} is off
+     * and the page objects should use the element API.
+     */
+    static PageScripts forDriver(WebDriver driver) {
+        return BATCHED ? new PageScripts(driver) : null;
+    }
+
+    public static boolean batchedReads() {
+        return BATCHED;
+    }
+
+    private static boolean batchedByDefault(String batchedReads, String transport) {
+        if (batchedReads == null || batchedReads.isBlank()) {
+            return "bidi".equalsIgnoreCase(transport);
+        }
+        return Boolean.parseBoolean(batchedReads.trim());
+    }
+
+    /**
+     * BiDi script calls made on this thread since the last call; resets the count.
+     */
+    public static long takeBiDiCallCount() {
+        long[] count = biDiCalls.get();
+        long taken = count[0];
+        count[0] = 0;
+        return taken;
+    }
+
+    private static boolean usesBiDi(WebDriver driver) {
+        return driver instanceof HasBiDi
+                && driver instanceof HasCapabilities
+                && ((HasCapabilities) driver).getCapabilities().getCapability("webSocketUrl") instanceof String
+                && ((HasBiDi) driver).maybeGetBiDi().isPresent();
+    }
+
+    // ── Reads ─────────────────────────────────────────────────────────────────
+
+    /**
+     * Trimmed text of the first match, or null while it is missing or hidden
+     * so it can be polled with {@code WebDriverWait.until}.
+     */
+    String visibleText(String css) {
+        return (String) call(VISIBLE_TEXT_FN, css);
+    }
+
+    boolean allVisible(String... css) {
+        return Boolean.TRUE.equals(call(ALL_VISIBLE_FN, css));
+    }
+
+    boolean clickable(String css) {
+        return Boolean.TRUE.equals(call(CLICKABLE_FN, css));
+    }
+
+    private Object call(String function, String... args) {
+        if (script == null) {
+            return ((JavascriptExecutor) driver).executeScript(
+                    "return (" + function + ").apply(null, arguments);", (Object[]) args);
+        }
+
+        biDiCalls.get()[0]++;
+        List<LocalValue> arguments = Arrays.stream(args).map(LocalValue::stringValue).toList();
+        EvaluateResult result = script.callFunctionInBrowsingContext(
+                context, function, false, Optional.of(arguments), Optional.empty(), Optional.empty());
+
+        if (result.getResultType() == EvaluateResult.Type.EXCEPTION) {
+            throw new JavascriptException(
+                    ((EvaluateResultExceptionValue) result).getExceptionDetails().getText());
+        }
+        return ((EvaluateResultSuccess) result).getResult().getValue().orElse(null);
+    }
+}
@@ -0,0 +1,78 @@
+package com.newsletter.pages;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * StepTimer
+ *
+ * Records how long each page-object step takes so the test side can
+ * compare step latencies between runs.
+ * Off until {@link #enable()} is called. Timings are held per thread
+ * until the running test passes ({@link #commit()}) or fails
+ * ({@link #discard()}), so a functional failure such as a wait timing
+ * out never counts as a slow step.
+ */
+public class StepTimer {
+
+    private static volatile boolean enabled;
+
+    private static final ThreadLocal<Map<String, List<Long>>> pending = ThreadLocal.withInitial(HashMap::new);
+    private static final Map<String, List<Long>> timings = new ConcurrentHashMap<>();
+
+    private StepTimer() {}
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static <T> T time(String step, Supplier<T> action) {
+        if (!enabled) return action.get();
+
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            pending.get().computeIfAbsent(step, key -> new ArrayList<>()).add(elapsedMs);
+        }
+    }
+
+    /**
+     * Keeps the current thread's pending timings for this run.
+     */
+    public static void commit() {
+        pending.get().forEach((step, samples) ->
+                timings.computeIfAbsent(step, key -> Collections.synchronizedList(new ArrayList<>()))
+                        .addAll(samples));
+        pending.remove();
+    }
+
+    /**
+     * Drops the current thread's pending timings.
+     */
+    public static void discard() {
+        pending.remove();
+    }
+
+    /**
+     * Returns every committed latency since the last call and clears them.
+     */
+    public static Map<String, List<Long>> drain() {
+        Map<String, List<Long>> snapshot = new HashMap<>();
+        for (String step : timings.keySet()) {
+            List<Long> samples = timings.remove(step);
+            if (samples != null) {
+                synchronized (samples) {
+                    snapshot.put(step, new ArrayList<>(samples));
+                }
+            }
+        }
+        return snapshot;
+    }
+}
@@ -13,25 +13,32 @@ public class SuccessPage {
 
     private final WebDriver driver;
     private final WebDriverWait wait;
+    private final PageScripts scripts;
 
     // ── Locators ─────────────────────────────────────────────────────────────
 
-    @FindBy(id = "success")
+    private static final String SUCCESS_CARD_CSS = "#success";
+    private static final String SUCCESS_HEADING_CSS = ".success-card h1";
+    private static final String SUCCESS_EMAIL_CSS = "#success-email";
+    private static final String DISMISS_BUTTON_CSS = "#dismiss";
+    private static final String CHECK_ICON_CSS = ".check img";
+
+    @FindBy(css = SUCCESS_CARD_CSS)
     private WebElement successCard;
 
-    @FindBy(css = ".success-card h1")
+    @FindBy(css = SUCCESS_HEADING_CSS)
     private WebElement successHeading;
 
     @FindBy(css = ".success-card p")
     private WebElement successMessage;
 
-    @FindBy(id = "success-email")
+    @FindBy(css = SUCCESS_EMAIL_CSS)
     private WebElement successEmail;
 
-    @FindBy(id = "dismiss")
+    @FindBy(css = DISMISS_BUTTON_CSS)
     private WebElement dismissButton;
 
-    @FindBy(css = ".check img")
+    @FindBy(css = CHECK_ICON_CSS)
     private WebElement checkIcon;
 
     // ── Constructor ───────────────────────────────────────────────────────────
@@ -39,34 +46,49 @@ public class SuccessPage {
     public SuccessPage(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.scripts = PageScripts.forDriver(driver);
         PageFactory.initElements(driver, this);
     }
 
     // ── Actions ───────────────────────────────────────────────────────────────
 
     public NewsletterPage clickDismiss() {
-        wait.until(ExpectedConditions.elementToBeClickable(dismissButton));
-        dismissButton.click();
-        return new NewsletterPage(driver);
+        return StepTimer.time("SuccessPage.clickDismiss", () -> {
+            if (scripts != null) {
+                wait.until(d -> scripts.clickable(DISMISS_BUTTON_CSS));
+            } else {
+                wait.until(ExpectedConditions.elementToBeClickable(dismissButton));
+            }
+            // Clicking stays on the element API: a script click is untrusted
+            dismissButton.click();
+            return new NewsletterPage(driver);
+        });
     }
 
     // ── Assertions / Getters ──────────────────────────────────────────────────
 
     public boolean isSuccessCardVisible() {
-        try {
-            wait.until(ExpectedConditions.visibilityOf(successCard));
-            return successCard.isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return StepTimer.time("SuccessPage.isSuccessCardVisible", () -> {
+            try {
+                if (scripts != null) {
+                    return wait.until(d -> scripts.allVisible(SUCCESS_CARD_CSS));
+                }
+                wait.until(ExpectedConditions.visibilityOf(successCard));
+                return successCard.isDisplayed();
+            } catch (Exception e) {
+                return false;
+            }
+        });
     }
 
     public String getSuccessHeadingText() {
+        if (scripts != null) return wait.until(d -> scripts.visibleText(SUCCESS_HEADING_CSS));
         wait.until(ExpectedConditions.visibilityOf(successHeading));
         return successHeading.getText();
     }
 
     public String getConfirmedEmail() {
+        if (scripts != null) return wait.until(d -> scripts.visibleText(SUCCESS_EMAIL_CSS));
         wait.until(ExpectedConditions.visibilityOf(successEmail));
         return successEmail.getText();
     }
@@ -76,6 +98,7 @@ public class SuccessPage {
     }
 
     public boolean isDismissButtonVisible() {
+        if (scripts != null) return scripts.allVisible(DISMISS_BUTTON_CSS);
         return dismissButton.isDisplayed();
     }
 
@@ -84,6 +107,7 @@ public class SuccessPage {
     }
 
     public boolean isCheckIconVisible() {
+        if (scripts != null) return scripts.allVisible(CHECK_ICON_CSS);
         return checkIcon.isDisplayed();
     }
 }
\ No newline at end of file
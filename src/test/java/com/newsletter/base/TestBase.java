@@ -1,8 +1,13 @@
 package com.newsletter.base;
 
+import com.newsletter.pages.StepTimer;
 import com.newsletter.utils.DriverManager;
+import com.newsletter.utils.PerformanceGateExtension;
+import com.newsletter.utils.ResourceMonitorExtension;
+import com.newsletter.utils.RoundTripExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.WebDriver;
 
 /**
@@ -10,7 +15,11 @@ import org.openqa.selenium.WebDriver;
  *
  * All test classes extend this.
  * Handles driver lifecycle and base URL resolution.
+ * Resource usage is sampled per class by ResourceMonitorExtension;
+ * durations are checked against the baseline by PerformanceGateExtension;
+ * browser round-trips per test are reported by RoundTripExtension.
  */
+@ExtendWith({ResourceMonitorExtension.class, PerformanceGateExtension.class, RoundTripExtension.class})
 public class TestBase {
 
     protected WebDriver driver;
@@ -23,7 +32,11 @@ public class TestBase {
     @BeforeEach
     public void setUp() {
         driver = DriverManager.getDriver();
-        driver.get(BASE_URL);
+        // Timed as a step so a slower page load reaches the performance baseline
+        StepTimer.time("TestBase.openPage", () -> {
+            driver.get(BASE_URL);
+            return driver;
+        });
     }
 
     @AfterEach
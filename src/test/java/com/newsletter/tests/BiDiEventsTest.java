@@ -0,0 +1,87 @@
+package com.newsletter.tests;
+
+import com.newsletter.base.TestBase;
+import com.newsletter.pages.NewsletterPage;
+import com.newsletter.utils.BiDiEvents;
+import com.newsletter.utils.DriverManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BiDi Event Tests")
+@EnabledIfSystemProperty(named = "transport", matches = "(?i)bidi",
+        disabledReason = "Run with -Dtransport=bidi")
+class BiDiEventsTest extends TestBase {
+
+    private BiDiEvents events;
+    private WebDriverWait wait;
+
+    @BeforeEach
+    void initEvents() {
+        events = DriverManager.getBiDiEvents().orElseThrow();
+        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("Verify that console messages are pushed to subscribers")
+    void verifyThatConsoleMessagesArePushed() {
+        List<String> messages = new CopyOnWriteArrayList<>();
+        events.onConsole(entry -> messages.add(entry.getText()));
+
+        ((JavascriptExecutor) driver).executeScript("console.log('bidi-console-check')");
+
+        boolean pushed = wait.until(d -> messages.contains("bidi-console-check"));
+        assertTrue(pushed,
+                "Console message should be pushed without polling");
+    }
+
+    @Test
+    @DisplayName("Verify that DOM mutations are pushed when the form is submitted")
+    void verifyThatDomMutationsArePushedOnSubmit() {
+        List<String> mutations = new CopyOnWriteArrayList<>();
+        events.onDomMutation(mutations::add);
+
+        new NewsletterPage(driver).submitForm();
+
+        boolean pushed = wait.until(d -> !mutations.isEmpty());
+        assertTrue(pushed,
+                "Showing the error should push at least one DOM mutation");
+    }
+
+    @Test
+    @DisplayName("Verify that DOM mutations are still pushed after navigating")
+    void verifyThatDomMutationsSurviveNavigation() {
+        List<String> mutations = new CopyOnWriteArrayList<>();
+        events.onDomMutation(mutations::add);
+
+        driver.get(BASE_URL);
+        mutations.clear();
+        new NewsletterPage(driver).submitForm();
+
+        boolean pushed = wait.until(d -> !mutations.isEmpty());
+        assertTrue(pushed,
+                "The observer should be installed again on the new document");
+    }
+
+    @Test
+    @DisplayName("Verify that the page response is pushed to subscribers")
+    void verifyThatPageResponseIsPushed() {
+        List<String> urls = new CopyOnWriteArrayList<>();
+        events.onResponse(response -> urls.add(response.getResponseData().getUrl()));
+
+        driver.navigate().refresh();
+
+        boolean pushed = wait.until(d -> urls.contains(BASE_URL));
+        assertTrue(pushed,
+                "Reloading the page should push its response");
+    }
+}
@@ -0,0 +1,120 @@
+package com.newsletter.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.LogInspector;
+import org.openqa.selenium.bidi.Network;
+import org.openqa.selenium.bidi.Script;
+import org.openqa.selenium.bidi.log.ConsoleLogEntry;
+import org.openqa.selenium.bidi.log.JavascriptLogEntry;
+import org.openqa.selenium.bidi.network.ResponseDetails;
+import org.openqa.selenium.bidi.script.ChannelValue;
+import org.openqa.selenium.bidi.script.LocalValue;
+import org.openqa.selenium.bidi.script.Message;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * BiDiEvents
+ *
+ * Pushes browser events from the WebDriver BiDi WebSocket to subscribers,
+ * so tests no longer have to poll for them.
+ * DOM mutations have no BiDi event of their own; a MutationObserver sends
+ * them over a script channel. It is registered as a preload script, so
+ * every document loaded after the first subscription is observed too.
+ */
+public class BiDiEvents implements AutoCloseable {
+
+    private static final String DOM_MUTATION_CHANNEL = "dom-mutations";
+
+    private static final String OBSERVE_DOM_FN =
+            "(send) => {"
+            + "  const observe = () => {"
+            + "    if (window.__domObserver) return;"
+            + "    window.__domObserver = new MutationObserver(records => records.forEach(r =>"
+            + "      send(JSON.stringify({"
+            + "        type: r.type,"
+            + "        target: r.target.id || r.target.nodeName,"
+            + "        attribute: r.attributeName"
+            + "      }))));"
+            + "    window.__domObserver.observe(document.documentElement,"
+            + "      { childList: true, attributes: true, subtree: true });"
+            + "  };"
+            + "  if (document.documentElement) observe();"
+            + "  else document.addEventListener('readystatechange', observe, { once: true });"
+            + "}";
+
+    private final WebDriver driver;
+    private final LogInspector logInspector;
+    private final Network network;
+    private final Script script;
+
+    private final List<Consumer<String>> domSubscribers = new CopyOnWriteArrayList<>();
+
+    public BiDiEvents(WebDriver driver) {
+        this.driver = driver;
+        this.logInspector = new LogInspector(driver);
+        this.network = new Network(driver);
+        this.script = new Script(driver);
+    }
+
+    // ── Subscriptions ─────────────────────────────────────────────────────────
+
+    public void onConsole(Consumer<ConsoleLogEntry> subscriber) {
+        logInspector.onConsoleEntry(subscriber);
+    }
+
+    public void onJavaScriptError(Consumer<JavascriptLogEntry> subscriber) {
+        logInspector.onJavaScriptException(subscriber);
+    }
+
+    public void onResponse(Consumer<ResponseDetails> subscriber) {
+        network.onResponseCompleted(subscriber);
+    }
+
+    /**
+     * Receives one JSON summary ({@code type}, {@code target}, {@code attribute})
+     * per DOM change, on the current document and on every later navigation.
+     */
+    public synchronized void onDomMutation(Consumer<String> subscriber) {
+        if (domSubscribers.isEmpty()) {
+            observeDomMutations();
+        }
+        domSubscribers.add(subscriber);
+    }
+
+    private void observeDomMutations() {
+        script.onMessage(this::dispatchDomMutation);
+
+        // Future documents
+        script.addPreloadScript(OBSERVE_DOM_FN, List.of(new ChannelValue(DOM_MUTATION_CHANNEL)));
+
+        // The document that is already loaded
+        script.callFunctionInBrowsingContext(
+                driver.getWindowHandle(), OBSERVE_DOM_FN, false,
+                Optional.of(List.of(LocalValue.channelValue(DOM_MUTATION_CHANNEL))),
+                Optional.empty(), Optional.empty());
+    }
+
+    private void dispatchDomMutation(Message message) {
+        if (!DOM_MUTATION_CHANNEL.equals(message.getChannel())) return;
+
+        Object mutation = message.getData().getValue().orElse(null);
+        if (mutation instanceof String) {
+            domSubscribers.forEach(subscriber -> subscriber.accept((String) mutation));
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            script.close();
+            network.close();
+            logInspector.close();
+        } catch (Exception e) {
+            System.err.println("[BiDiEvents] Warning during close: " + e.getMessage());
+        }
+    }
+}
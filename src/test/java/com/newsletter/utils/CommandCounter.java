@@ -0,0 +1,94 @@
+package com.newsletter.utils;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Interactive;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CommandCounter
+ *
+ * Counts the classic WebDriver commands (HTTP round-trips) a session
+ * sends. Accessors that only hand back a local object, such as
+ * {@code manage()}, {@code navigate()}, {@code switchTo()} or
+ * {@code window()}, are not counted; the browser calls made through
+ * them are.
+ */
+public class CommandCounter implements WebDriverListener {
+
+    private static final Set<Class<?>> DRIVER_COMMAND_TYPES = Set.of(
+            WebDriver.class, SearchContext.class, JavascriptExecutor.class, TakesScreenshot.class, Interactive.class
+    );
+
+    private static final Set<Class<?>> ELEMENT_COMMAND_TYPES = Set.of(
+            WebElement.class, SearchContext.class, TakesScreenshot.class
+    );
+
+    private static final Set<String> LOCAL_DRIVER_METHODS = Set.of(
+            "manage", "navigate", "switchTo", "pin", "unpin", "getPinnedScripts"
+    );
+
+    private static final Set<String> LOCAL_OPTIONS_METHODS = Set.of("timeouts", "window", "logs");
+
+    private final AtomicLong commands = new AtomicLong();
+
+    @Override
+    public void beforeAnyWebDriverCall(WebDriver driver, Method method, Object[] args) {
+        if (DRIVER_COMMAND_TYPES.contains(method.getDeclaringClass())
+                && !LOCAL_DRIVER_METHODS.contains(method.getName())) {
+            commands.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void beforeAnyWebElementCall(WebElement element, Method method, Object[] args) {
+        if (ELEMENT_COMMAND_TYPES.contains(method.getDeclaringClass())) {
+            commands.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void beforeAnyNavigationCall(WebDriver.Navigation navigation, Method method, Object[] args) {
+        commands.incrementAndGet();
+    }
+
+    @Override
+    public void beforeAnyOptionsCall(WebDriver.Options options, Method method, Object[] args) {
+        // Cookie calls go to the browser; timeouts()/window()/logs() are local accessors
+        if (!LOCAL_OPTIONS_METHODS.contains(method.getName())) {
+            commands.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void beforeAnyWindowCall(WebDriver.Window window, Method method, Object[] args) {
+        commands.incrementAndGet();
+    }
+
+    @Override
+    public void beforeAnyTimeoutsCall(WebDriver.Timeouts timeouts, Method method, Object[] args) {
+        commands.incrementAndGet();
+    }
+
+    @Override
+    public void beforeAnyTargetLocatorCall(WebDriver.TargetLocator targetLocator, Method method, Object[] args) {
+        commands.incrementAndGet();
+    }
+
+    @Override
+    public void beforeAnyAlertCall(Alert alert, Method method, Object[] args) {
+        commands.incrementAndGet();
+    }
+
+    public long count() {
+        return commands.get();
+    }
+}
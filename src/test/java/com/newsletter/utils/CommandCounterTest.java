@@ -0,0 +1,112 @@
+package com.newsletter.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Command Counter Tests")
+class CommandCounterTest {
+
+    private CommandCounter counter;
+    private WebDriver driver;
+
+    /**
+     * Browser-free stand-in: every Selenium interface a method returns is
+     * itself a stub, so manage().window(), findElement() etc. can be chained.
+     */
+    private static Object stub(Class<?>... types) {
+        return Proxy.newProxyInstance(CommandCounterTest.class.getClassLoader(), types, (proxy, method, args) -> {
+            Class<?> returned = method.getReturnType();
+            if (returned.isInterface() && returned.getName().startsWith("org.openqa.selenium")) {
+                return stub(returned);
+            }
+            if (returned == List.class) return List.of();
+            if (returned == String.class) return "stub";
+            if (returned == boolean.class) return false;
+            if (method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+            if (method.getName().equals("equals")) return proxy == args[0];
+            return null;
+        });
+    }
+
+    @BeforeEach
+    void decorateStubDriver() {
+        counter = new CommandCounter();
+        WebDriver raw = (WebDriver) stub(WebDriver.class, JavascriptExecutor.class);
+        driver = new EventFiringDecorator<WebDriver>(counter).decorate(raw);
+    }
+
+    @Test
+    @DisplayName("Verify that driver commands count once each")
+    void verifyThatDriverCommandsCountOnce() {
+        driver.get("https://example.com");
+        driver.getTitle();
+        driver.getWindowHandle();
+        ((JavascriptExecutor) driver).executeScript("return 1");
+
+        assertEquals(4, counter.count());
+    }
+
+    @Test
+    @DisplayName("Verify that manage(), navigate() and switchTo() accessors are not counted")
+    void verifyThatLocalAccessorsAreNotCounted() {
+        driver.manage();
+        driver.navigate();
+        driver.switchTo();
+        driver.manage().window();
+        driver.manage().timeouts();
+
+        assertEquals(0, counter.count(), "Accessors only hand back a local object");
+    }
+
+    @Test
+    @DisplayName("Verify that navigate().to() counts once, not once per accessor")
+    void verifyThatNavigationCountsOnce() {
+        driver.navigate().to("https://example.com");
+        driver.navigate().refresh();
+
+        assertEquals(2, counter.count());
+    }
+
+    @Test
+    @DisplayName("Verify that Options, Window and Timeouts calls are each counted")
+    void verifyThatOptionsWindowAndTimeoutsCallsAreCounted() {
+        driver.manage().addCookie(new Cookie("name", "value"));
+        driver.manage().deleteAllCookies();
+        driver.manage().window().maximize();
+        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(1));
+
+        assertEquals(4, counter.count());
+    }
+
+    @Test
+    @DisplayName("Verify that target locator calls are counted")
+    void verifyThatTargetLocatorCallsAreCounted() {
+        driver.switchTo().defaultContent();
+
+        assertEquals(1, counter.count());
+    }
+
+    @Test
+    @DisplayName("Verify that element lookups and element commands are each counted")
+    void verifyThatElementCommandsAreCounted() {
+        WebElement element = driver.findElement(By.id("email"));
+        element.isDisplayed();
+        element.getText();
+        element.findElements(By.tagName("span"));
+
+        assertEquals(4, counter.count(), "1 driver lookup + 3 element commands");
+    }
+}
@@ -1,48 +1,119 @@
 package com.newsletter.utils;
 
+import com.newsletter.pages.PageScripts;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import java.util.Optional;
 
 public class DriverManager {
 
+    /** "classic" (HTTP per command) or "bidi" (adds a persistent WebSocket for pushed events). */
+    private static final String TRANSPORT = System.getProperty("transport", "classic");
+
     private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<BiDiEvents> biDiThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<CommandCounter> counterThreadLocal = new ThreadLocal<>();
 
     private DriverManager() {}
 
     public static WebDriver getDriver() {
+        WebDriver current = driverThreadLocal.get();
+        // ResourceMonitor force-quits sessions a test class leaked; never hand one of those out again
+        if (current != null && !ResourceMonitor.isOpen(current)) {
+            clearThreadState();
+        }
+
         if (driverThreadLocal.get() == null) {
-            driverThreadLocal.set(createDriver());
+            WebDriver driver = createDriver();
+            ResourceMonitor.sessionOpened(driver);
+            driverThreadLocal.set(driver);
         }
         return driverThreadLocal.get();
     }
 
+    public static boolean isBiDi() {
+        return "bidi".equalsIgnoreCase(TRANSPORT);
+    }
+
+    public static String getTransport() {
+        return TRANSPORT.toLowerCase();
+    }
+
+    /**
+     * Event subscriptions for the current thread's session; empty in classic mode.
+     */
+    public static Optional<BiDiEvents> getBiDiEvents() {
+        return Optional.ofNullable(biDiThreadLocal.get());
+    }
+
     public static void quitDriver() {
         WebDriver driver = driverThreadLocal.get();
         if (driver == null) return;
 
+        BiDiEvents events = biDiThreadLocal.get();
+        CommandCounter counter = counterThreadLocal.get();
         try {
+            if (events != null) {
+                events.close();
+            }
+            if (counter != null) {
+                RoundTrips.record(counter.count(), PageScripts.takeBiDiCallCount());
+            }
             driver.quit();
+            ResourceMonitor.sessionClosed(driver);
         } catch (Exception e) {
+            // Left tracked so ResourceMonitor reports it and cleans up its processes
             System.err.println("[DriverManager] Warning during quit: " + e.getMessage());
         } finally {
             driverThreadLocal.remove();
+            biDiThreadLocal.remove();
+            counterThreadLocal.remove();
         }
     }
 
+    private static void clearThreadState() {
+        BiDiEvents events = biDiThreadLocal.get();
+        if (events != null) {
+            events.close();
+        }
+        driverThreadLocal.remove();
+        biDiThreadLocal.remove();
+        counterThreadLocal.remove();
+    }
+
     private static WebDriver createDriver() {
         WebDriverManager.chromedriver().setup();
 
         ChromeOptions options = buildChromeOptions();
         WebDriver driver = new ChromeDriver(options);
         driver.manage().window().maximize();
-        return driver;
+
+        CommandCounter counter = new CommandCounter();
+        counterThreadLocal.set(counter);
+        PageScripts.takeBiDiCallCount(); // drop calls a leaked session on this thread made
+        WebDriver decorated = new EventFiringDecorator<WebDriver>(counter).decorate(driver);
+
+        if (isBiDi()) {
+            // Decorated, so any HTTP command BiDiEvents sends is counted too
+            BiDiEvents events = new BiDiEvents(decorated);
+            events.onJavaScriptError(entry ->
+                    System.err.println("[DriverManager] JavaScript error on page: " + entry.getText()));
+            biDiThreadLocal.set(events);
+        }
+        return decorated;
     }
 
     private static ChromeOptions buildChromeOptions() {
         ChromeOptions options = new ChromeOptions();
 
+        if (isBiDi()) {
+            options.setCapability("webSocketUrl", true);
+        }
+
         boolean headless = Boolean.parseBoolean(
                 System.getProperty("headless", "false")
         );
@@ -0,0 +1,131 @@
+package com.newsletter.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * PerformanceBaseline
+ *
+ * Rolling history of durations (ms) per test and per page-object step,
+ * stored as one tab-separated line per key, oldest sample first.
+ * Compares a run against that history using median and MAD.
+ */
+public class PerformanceBaseline {
+
+    /** Scales MAD so it estimates the standard deviation of normal data. */
+    private static final double MAD_SCALE = 0.6745;
+
+    private final Path file;
+    private final int window;
+    private final Map<String, List<Long>> history = new TreeMap<>();
+
+    public PerformanceBaseline(Path file, int window) {
+        this.file = file;
+        this.window = window;
+    }
+
+    // ── Persistence ───────────────────────────────────────────────────────────
+
+    public PerformanceBaseline load() throws IOException {
+        if (!Files.exists(file)) return this;
+
+        for (String line : Files.readAllLines(file)) {
+            String[] parts = line.split("\t");
+            if (parts.length != 2 || parts[1].isBlank()) continue;
+            try {
+                history.put(parts[0], Arrays.stream(parts[1].split(","))
+                        .map(String::trim)
+                        .map(Long::parseLong)
+                        .collect(Collectors.toCollection(ArrayList::new)));
+            } catch (NumberFormatException e) {
+                System.err.println("[PerformanceBaseline] Skipping malformed line in " + file + ": " + line);
+            }
+        }
+        return this;
+    }
+
+    public void save() throws IOException {
+        List<String> lines = history.entrySet().stream()
+                .map(entry -> entry.getKey() + "\t" + entry.getValue().stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(",")))
+                .collect(Collectors.toList());
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, lines);
+    }
+
+    /**
+     * Appends this run's durations, dropping the oldest beyond the window.
+     */
+    public void record(Map<String, Long> run) {
+        run.forEach((key, durationMs) -> {
+            List<Long> samples = history.computeIfAbsent(key, k -> new ArrayList<>());
+            samples.add(durationMs);
+            while (samples.size() > window) {
+                samples.remove(0);
+            }
+        });
+    }
+
+    // ── Comparison ────────────────────────────────────────────────────────────
+
+    /**
+     * Returns the keys in {@code run} that are significantly slower than
+     * their history, slowest (highest robust z-score) first.
+     *
+     * @param minRuns      history samples needed before a key is judged
+     * @param zThreshold   robust z-score above which a key counts as slower
+     * @param minRatio     current / median ratio that must also be exceeded
+     * @param minDeltaMs   absolute slowdown that must also be exceeded
+     */
+    public List<Regression> compare(Map<String, Long> run, int minRuns,
+                                    double zThreshold, double minRatio, long minDeltaMs) {
+        List<Regression> regressions = new ArrayList<>();
+
+        run.forEach((key, currentMs) -> {
+            List<Long> samples = history.get(key);
+            if (samples == null || samples.size() < minRuns) return;
+
+            double median = median(samples);
+            double mad = median(samples.stream()
+                    .map(sample -> Math.abs(sample - median))
+                    .collect(Collectors.toList()));
+            // Identical past runs give MAD 0; floor it so one extra ms is not "infinitely" slow
+            double spread = Math.max(mad, 1.0);
+            double z = MAD_SCALE * (currentMs - median) / spread;
+            double ratio = currentMs / Math.max(median, 1.0);
+
+            if (z >= zThreshold && ratio >= minRatio && currentMs - median >= minDeltaMs) {
+                regressions.add(new Regression(key, currentMs, median, mad, z, ratio, samples.size()));
+            }
+        });
+
+        regressions.sort(Comparator.comparingDouble(Regression::zScore).reversed());
+        return regressions;
+    }
+
+    static double median(List<? extends Number> values) {
+        double[] sorted = values.stream().mapToDouble(Number::doubleValue).sorted().toArray();
+        if (sorted.length == 0) return 0;
+
+        int mid = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2.0;
+    }
+
+    // ── Value types ───────────────────────────────────────────────────────────
+
+    public record Regression(String key, long currentMs, double medianMs, double madMs,
+                             double zScore, double ratio, int baselineRuns) {
+    }
+}
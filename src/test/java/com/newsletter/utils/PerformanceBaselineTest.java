@@ -0,0 +1,132 @@
+package com.newsletter.utils;
+
+import com.newsletter.utils.PerformanceBaseline.Regression;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Performance Baseline Tests")
+class PerformanceBaselineTest {
+
+    private static final String KEY = "test:SomeTest#someMethod";
+
+    // median 1000, MAD 5
+    private static final long[] STEADY_RUNS = {1000, 1010, 990, 1005, 995};
+
+    @TempDir
+    Path tempDir;
+
+    private PerformanceBaseline baselineWith(String key, long... runs) {
+        PerformanceBaseline baseline = new PerformanceBaseline(tempDir.resolve("history.tsv"), 20);
+        for (long run : runs) {
+            baseline.record(Map.of(key, run));
+        }
+        return baseline;
+    }
+
+    @Test
+    @DisplayName("Verify that median of an odd-sized sample is the middle value")
+    void verifyThatOddMedianIsMiddleValue() {
+        assertEquals(2.0, PerformanceBaseline.median(List.of(3L, 1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("Verify that median of an even-sized sample averages the middle pair")
+    void verifyThatEvenMedianAveragesMiddlePair() {
+        assertEquals(2.5, PerformanceBaseline.median(List.of(4L, 1L, 3L, 2L)));
+    }
+
+    @Test
+    @DisplayName("Verify that a clear slowdown is flagged with median, MAD and z-score")
+    void verifyThatClearSlowdownIsFlagged() {
+        List<Regression> regressions = baselineWith(KEY, STEADY_RUNS)
+                .compare(Map.of(KEY, 1300L), 5, 3.5, 1.2, 100);
+
+        assertEquals(1, regressions.size(), "1300 ms against a 1000 ms median should be flagged");
+        Regression regression = regressions.get(0);
+        assertEquals(1000.0, regression.medianMs());
+        assertEquals(5.0, regression.madMs());
+        assertEquals(0.6745 * 300 / 5, regression.zScore(), 1e-9);
+        assertEquals(1.3, regression.ratio(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Verify that identical past runs (MAD 0) give a finite z-score")
+    void verifyThatZeroMadIsFloored() {
+        List<Regression> regressions = baselineWith(KEY, 1000, 1000, 1000, 1000, 1000)
+                .compare(Map.of(KEY, 1300L), 5, 3.5, 1.2, 100);
+
+        assertEquals(1, regressions.size());
+        assertEquals(0.0, regressions.get(0).madMs());
+        assertEquals(0.6745 * 300, regressions.get(0).zScore(), 1e-9,
+                "MAD should be floored at 1 ms rather than dividing by zero");
+    }
+
+    @Test
+    @DisplayName("Verify that a slowdown below the z-score threshold is not flagged")
+    void verifyThatZThresholdIsApplied() {
+        assertTrue(baselineWith(KEY, STEADY_RUNS)
+                .compare(Map.of(KEY, 1300L), 5, 50.0, 1.2, 100).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify that a slowdown below the ratio threshold is not flagged")
+    void verifyThatRatioThresholdIsApplied() {
+        assertTrue(baselineWith(KEY, STEADY_RUNS)
+                .compare(Map.of(KEY, 1300L), 5, 3.5, 1.4, 100).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify that a slowdown below the absolute delta threshold is not flagged")
+    void verifyThatDeltaThresholdIsApplied() {
+        assertTrue(baselineWith(KEY, STEADY_RUNS)
+                .compare(Map.of(KEY, 1300L), 5, 3.5, 1.2, 400).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify that keys with fewer than minRuns baseline samples are not judged")
+    void verifyThatMinRunsIsApplied() {
+        assertTrue(baselineWith(KEY, STEADY_RUNS)
+                .compare(Map.of(KEY, 5000L), 6, 3.5, 1.2, 100).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify that regressions are ranked by z-score, highest first")
+    void verifyThatRegressionsAreRankedByZScore() {
+        PerformanceBaseline baseline = baselineWith("test:A#slow", STEADY_RUNS);
+        for (long run : STEADY_RUNS) {
+            baseline.record(Map.of("test:B#slower", run));
+        }
+
+        List<Regression> regressions = baseline.compare(
+                Map.of("test:A#slow", 1300L, "test:B#slower", 1600L), 5, 3.5, 1.2, 100);
+
+        assertEquals(List.of("test:B#slower", "test:A#slow"),
+                regressions.stream().map(Regression::key).toList());
+    }
+
+    @Test
+    @DisplayName("Verify that malformed baseline lines are skipped on load")
+    void verifyThatMalformedLinesAreSkipped() throws IOException {
+        Path file = tempDir.resolve("history.tsv");
+        Files.write(file, List.of(
+                "test:Bad#line\t1000,oops,1000",
+                KEY + "\t1000,1010,990,1005,995"
+        ));
+
+        PerformanceBaseline baseline = new PerformanceBaseline(file, 20).load();
+        List<Regression> regressions = baseline.compare(
+                Map.of(KEY, 1300L, "test:Bad#line", 9000L), 5, 3.5, 1.2, 100);
+
+        assertEquals(List.of(KEY), regressions.stream().map(Regression::key).toList(),
+                "Only the well-formed line should be loaded");
+    }
+}
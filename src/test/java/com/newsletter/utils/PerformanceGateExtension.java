@@ -0,0 +1,191 @@
+package com.newsletter.utils;
+
+import com.newsletter.pages.StepTimer;
+import com.newsletter.utils.PerformanceBaseline.Regression;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * PerformanceGateExtension
+ *
+ * Times every passing test and, once the whole run has finished,
+ * compares test durations and page-object step latencies (StepTimer)
+ * against the rolling PerformanceBaseline.
+ * Prints a ranked regression table, writes it as JSON and, in
+ * {@code fail} mode, fails the run when anything regressed. Surefire
+ * reports that as a failure of the "JUnit Jupiter" container and fails
+ * {@code mvn test}. A failing run is not added to the baseline.
+ */
+public class PerformanceGateExtension
+        implements BeforeAllCallback, BeforeEachCallback, BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final String MODE = System.getProperty("perf.gate", "warn");
+    private static final boolean ENABLED = !"off".equals(MODE);
+
+    private static final Path BASELINE_FILE = Paths.get(
+            System.getProperty("perf.baseline.file", ".perf-baseline/history.tsv")
+    );
+
+    private static final Path REPORT_FILE = Paths.get(
+            System.getProperty("perf.report.file", "target/perf/regressions.json")
+    );
+
+    private static final int WINDOW = Integer.getInteger("perf.baseline.window", 20);
+    private static final int MIN_RUNS = Integer.getInteger("perf.baseline.min.runs", 5);
+    private static final double Z_THRESHOLD = Double.parseDouble(System.getProperty("perf.gate.z", "3.5"));
+    private static final double MIN_RATIO = Double.parseDouble(System.getProperty("perf.gate.min.ratio", "1.2"));
+    private static final long MIN_DELTA_MS = Long.getLong("perf.gate.min.delta.ms", 100);
+
+    private static final Map<String, Long> testDurations = new ConcurrentHashMap<>();
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(PerformanceGateExtension.class);
+
+    // ── Test lifecycle ────────────────────────────────────────────────────────
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!ENABLED) return;
+
+        StepTimer.enable();
+        // Closed by JUnit once, after the last test class of the run
+        context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(Gate.class, key -> new Gate(), Gate.class);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        // Steps left over from a test whose setup failed belong to no test
+        StepTimer.discard();
+    }
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (!ENABLED) return;
+
+        context.getStore(NAMESPACE).put("start", System.nanoTime());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        Long start = context.getStore(NAMESPACE).remove("start", Long.class);
+        if (start == null) return;
+
+        if (context.getExecutionException().isPresent()) {
+            StepTimer.discard();
+            return;
+        }
+        StepTimer.commit();
+        testDurations.put(testKey(context), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    static String testKey(ExtensionContext context) {
+        String key = "test:" + context.getRequiredTestClass().getSimpleName()
+                + "#" + context.getRequiredTestMethod().getName();
+        // Parameterized invocations share a method; tell them apart by their display name
+        if (context.getUniqueId().contains("test-template-invocation")) {
+            key += "(" + context.getDisplayName() + ")";
+        }
+        return key;
+    }
+
+    // ── End-of-run gate ───────────────────────────────────────────────────────
+
+    private static class Gate implements ExtensionContext.Store.CloseableResource {
+
+        /**
+         * Only a regression in {@code fail} mode may throw from here; I/O
+         * problems with the baseline or report are logged and skipped.
+         */
+        @Override
+        public void close() {
+            Map<String, Long> run = new TreeMap<>(testDurations);
+            StepTimer.drain().forEach((step, samples) ->
+                    run.put("step:" + step, Math.round(PerformanceBaseline.median(samples))));
+            if (run.isEmpty()) return;
+
+            PerformanceBaseline baseline = new PerformanceBaseline(BASELINE_FILE, WINDOW);
+            try {
+                baseline.load();
+            } catch (IOException e) {
+                System.err.println("[PerformanceGate] Could not read baseline " + BASELINE_FILE + ": " + e.getMessage());
+                return;
+            }
+
+            List<Regression> regressions = baseline.compare(run, MIN_RUNS, Z_THRESHOLD, MIN_RATIO, MIN_DELTA_MS);
+            try {
+                report(regressions, run.size());
+            } catch (IOException e) {
+                System.err.println("[PerformanceGate] Could not write " + REPORT_FILE + ": " + e.getMessage());
+            }
+
+            boolean failing = "fail".equals(MODE) && !regressions.isEmpty();
+
+            // Recording a failing run would drag the median up until a re-run passes
+            if (!failing && Boolean.parseBoolean(System.getProperty("perf.baseline.update", "true"))) {
+                try {
+                    baseline.record(run);
+                    baseline.save();
+                } catch (IOException e) {
+                    System.err.println("[PerformanceGate] Could not update baseline " + BASELINE_FILE + ": " + e.getMessage());
+                }
+            }
+
+            if (failing) {
+                throw new AssertionError("[PerformanceGate] " + regressions.size()
+                        + " performance regression(s), see " + REPORT_FILE);
+            }
+        }
+
+        private void report(List<Regression> regressions, int compared) throws IOException {
+            System.out.printf("[PerformanceGate] %d of %d tests/steps slower than baseline (mode=%s)%n",
+                    regressions.size(), compared, MODE);
+
+            if (!regressions.isEmpty()) {
+                System.out.printf("%-4s %-90s %10s %10s %8s %7s%n", "#", "key", "current", "median", "z", "ratio");
+                for (int i = 0; i < regressions.size(); i++) {
+                    Regression r = regressions.get(i);
+                    System.out.printf("%-4d %-90s %8dms %8.0fms %8.1f %6.2fx%n",
+                            i + 1, r.key(), r.currentMs(), r.medianMs(), r.zScore(), r.ratio());
+                }
+            }
+
+            List<Map<String, Object>> rows = regressions.stream().map(r -> {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("key", r.key());
+                row.put("currentMs", r.currentMs());
+                row.put("medianMs", r.medianMs());
+                row.put("madMs", r.madMs());
+                row.put("zScore", r.zScore());
+                row.put("ratio", r.ratio());
+                row.put("baselineRuns", r.baselineRuns());
+                return row;
+            }).collect(Collectors.toList());
+
+            Map<String, Object> document = new LinkedHashMap<>();
+            document.put("mode", MODE);
+            document.put("compared", compared);
+            document.put("regressions", rows);
+
+            if (REPORT_FILE.getParent() != null) {
+                Files.createDirectories(REPORT_FILE.getParent());
+            }
+            Files.writeString(REPORT_FILE, new Json().toJson(document));
+        }
+    }
+}
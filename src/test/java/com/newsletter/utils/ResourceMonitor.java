@@ -0,0 +1,340 @@
+package com.newsletter.utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * ResourceMonitor
+ *
+ * Samples browser sessions, chrome/chromedriver processes and the JVM
+ * in the background while tests run.
+ * Tracks sessions that were opened but never quit, writes one CSV
+ * time-series per test class and kills orphaned browser processes
+ * when the JVM shuts down.
+ * Each session's chromedriver and browser processes are recorded when
+ * it opens: when chromedriver dies its browser is reparented to init
+ * and is no longer a descendant of the JVM, but can still be killed.
+ */
+public class ResourceMonitor {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(
+            System.getProperty("resource.monitor", "true")
+    );
+
+    private static final long INTERVAL_MS = Long.parseLong(
+            System.getProperty("resource.monitor.interval.ms", "1000")
+    );
+
+    private static final Path REPORT_DIR = Paths.get(
+            System.getProperty("resource.reports.directory", "target/resource-reports")
+    );
+
+    private static final String CSV_HEADER =
+            "timestamp,live_sessions,browser_processes,browser_rss_kb,browser_cpu_ms,browser_cpu_pct,"
+                    + "heap_used_bytes,heap_max_bytes,jvm_threads";
+
+    private static final Map<WebDriver, Session> openSessions = new ConcurrentHashMap<>();
+    private static final Map<String, List<Sample>> seriesByClass = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> currentOwner = new ThreadLocal<>();
+
+    // chromedriver pids already attributed to a session
+    private static final Set<Long> claimedDriverPids = ConcurrentHashMap.newKeySet();
+
+    private static ScheduledExecutorService sampler;
+
+    // Lifetime CPU per browser pid at the previous sample, to turn totals into per-interval usage
+    private static final Map<Long, Long> lastCpuMsByPid = new HashMap<>();
+    private static long lastSampleNanos;
+
+    private ResourceMonitor() {}
+
+    // ── Test class lifecycle ──────────────────────────────────────────────────
+
+    public static synchronized void startClass(String testClass) {
+        if (!ENABLED) return;
+
+        seriesByClass.put(testClass, new CopyOnWriteArrayList<>());
+        if (sampler == null) {
+            sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "resource-monitor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            sampler.scheduleAtFixedRate(ResourceMonitor::sampleAll, 0, INTERVAL_MS, TimeUnit.MILLISECONDS);
+            Runtime.getRuntime().addShutdownHook(new Thread(ResourceMonitor::shutdown, "resource-monitor-shutdown"));
+        }
+    }
+
+    public static void setOwner(String testClass) {
+        currentOwner.set(testClass);
+    }
+
+    /**
+     * Stops recording for the class, reports and quits any session it
+     * opened but never closed, and writes its resource report.
+     * DriverManager drops a force-quit session from its thread on the
+     * next getDriver() call (see {@link #isOpen}).
+     */
+    public static void finishClass(String testClass) {
+        if (!ENABLED) return;
+
+        currentOwner.remove();
+        List<Sample> series = seriesByClass.remove(testClass);
+        if (series == null) return;
+        series.add(takeSample());
+
+        List<Map.Entry<WebDriver, Session>> leaked = openSessions.entrySet().stream()
+                .filter(entry -> testClass.equals(entry.getValue().owner()))
+                .collect(Collectors.toList());
+
+        for (Map.Entry<WebDriver, Session> entry : leaked) {
+            System.err.println("[ResourceMonitor] Leaked session from " + testClass + ": " + entry.getValue());
+            forceQuit(entry.getKey(), entry.getValue());
+        }
+
+        writeReport(testClass, series, leaked.size());
+    }
+
+    // ── Session tracking ──────────────────────────────────────────────────────
+
+    public static void sessionOpened(WebDriver driver) {
+        String owner = currentOwner.get();
+        openSessions.put(driver, new Session(
+                owner != null ? owner : "unknown",
+                Thread.currentThread().getName(),
+                Instant.now(),
+                claimSessionProcesses()
+        ));
+    }
+
+    public static void sessionClosed(WebDriver driver) {
+        Session session = openSessions.remove(driver);
+        if (session != null) {
+            session.processes().forEach(process -> claimedDriverPids.remove(process.pid()));
+        }
+    }
+
+    public static boolean isOpen(WebDriver driver) {
+        return openSessions.containsKey(driver);
+    }
+
+    // ── Sampling ──────────────────────────────────────────────────────────────
+
+    private static void sampleAll() {
+        try {
+            if (seriesByClass.isEmpty()) return;
+            Sample sample = takeSample();
+            seriesByClass.values().forEach(series -> series.add(sample));
+        } catch (Exception e) {
+            System.err.println("[ResourceMonitor] Warning during sampling: " + e.getMessage());
+        }
+    }
+
+    /**
+     * chromedriver processes the JVM started since the last call, with the
+     * browser processes each of them launched.
+     */
+    private static synchronized List<ProcessHandle> claimSessionProcesses() {
+        List<ProcessHandle> claimed = new ArrayList<>();
+        ProcessHandle.current().children()
+                .filter(ResourceMonitor::isBrowserProcess)
+                .filter(driverProcess -> claimedDriverPids.add(driverProcess.pid()))
+                .forEach(driverProcess -> {
+                    claimed.add(driverProcess);
+                    driverProcess.children().filter(ResourceMonitor::isBrowserProcess).forEach(claimed::add);
+                });
+        return claimed;
+    }
+
+    /**
+     * Browser processes below the JVM plus those below any tracked
+     * session's processes, including ones reparented after chromedriver died.
+     */
+    private static List<ProcessHandle> browserProcesses() {
+        Stream<ProcessHandle> tracked = openSessions.values().stream()
+                .flatMap(session -> session.processes().stream())
+                .flatMap(process -> Stream.concat(Stream.of(process), process.descendants()));
+
+        Map<Long, ProcessHandle> byPid = new LinkedHashMap<>();
+        Stream.concat(ProcessHandle.current().descendants(), tracked)
+                .filter(ResourceMonitor::isBrowserProcess)
+                .forEach(process -> byPid.putIfAbsent(process.pid(), process));
+        return new ArrayList<>(byPid.values());
+    }
+
+    private static boolean isBrowserProcess(ProcessHandle process) {
+        return process.isAlive() && process.info().command()
+                .map(command -> command.toLowerCase().contains("chrome"))
+                .orElse(false);
+    }
+
+    /**
+     * Browser CPU is reported as the time used since the previous sample
+     * (and as a percentage of one core), so it tracks load rather than
+     * the lifetime totals of whichever processes are still alive.
+     */
+    private static synchronized Sample takeSample() {
+        long now = System.nanoTime();
+        List<ProcessHandle> processes = browserProcesses();
+
+        Map<Long, Long> cpuMsByPid = new HashMap<>();
+        for (ProcessHandle process : processes) {
+            cpuMsByPid.put(process.pid(), process.info().totalCpuDuration().map(Duration::toMillis).orElse(0L));
+        }
+
+        long intervalMs = lastSampleNanos == 0 ? 0 : (now - lastSampleNanos) / 1_000_000;
+        CpuInterval cpu = cpuInterval(lastCpuMsByPid, cpuMsByPid, intervalMs);
+
+        lastCpuMsByPid.clear();
+        lastCpuMsByPid.putAll(cpuMsByPid);
+        lastSampleNanos = now;
+
+        long rss = processes.stream().mapToLong(ResourceMonitor::residentKb).sum();
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+        return new Sample(Instant.now(), openSessions.size(), processes.size(), rss, cpu.cpuMs(), cpu.percent(),
+                heap.getUsed(), heap.getMax(), ManagementFactory.getThreadMXBean().getThreadCount());
+    }
+
+    /**
+     * Browser CPU used between two samples, from each pid's lifetime CPU
+     * time then and now. A pid that is new, or whose total went down
+     * because the pid was reused, started during the interval, so all of
+     * its CPU counts. The first sample (interval 0) reports nothing.
+     */
+    static CpuInterval cpuInterval(Map<Long, Long> previousCpuMsByPid, Map<Long, Long> cpuMsByPid, long intervalMs) {
+        if (intervalMs <= 0) return new CpuInterval(0, 0);
+
+        long cpuMs = 0;
+        for (Map.Entry<Long, Long> entry : cpuMsByPid.entrySet()) {
+            long previous = previousCpuMsByPid.getOrDefault(entry.getKey(), 0L);
+            cpuMs += entry.getValue() >= previous ? entry.getValue() - previous : entry.getValue();
+        }
+        return new CpuInterval(cpuMs, 100.0 * cpuMs / intervalMs);
+    }
+
+    /**
+     * Resident set size from /proc; returns 0 on platforms without it.
+     */
+    private static long residentKb(ProcessHandle process) {
+        Path status = Paths.get("/proc", String.valueOf(process.pid()), "status");
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // process exited between listing and reading, or no procfs
+        }
+        return 0;
+    }
+
+    // ── Reporting & cleanup ───────────────────────────────────────────────────
+
+    private static void writeReport(String testClass, List<Sample> series, int leakedSessions) {
+        List<String> lines = new ArrayList<>();
+        lines.add(CSV_HEADER);
+        series.forEach(sample -> lines.add(sample.toCsv()));
+
+        long peakRss = series.stream().mapToLong(Sample::browserRssKb).max().orElse(0);
+        long peakHeap = series.stream().mapToLong(Sample::heapUsedBytes).max().orElse(0);
+        int peakSessions = series.stream().mapToInt(Sample::liveSessions).max().orElse(0);
+        double peakCpu = series.stream().mapToDouble(Sample::browserCpuPercent).max().orElse(0);
+
+        try {
+            Files.createDirectories(REPORT_DIR);
+            Files.write(REPORT_DIR.resolve(testClass + ".csv"), lines);
+        } catch (IOException e) {
+            System.err.println("[ResourceMonitor] Could not write report for " + testClass + ": " + e.getMessage());
+        }
+
+        System.out.printf("[ResourceMonitor] %s: %d samples, peak sessions=%d, peak browser RSS=%d KB, "
+                        + "peak browser CPU=%.0f%%, peak heap=%d MB, leaked sessions=%d%n",
+                testClass, series.size(), peakSessions, peakRss, peakCpu, peakHeap / (1024 * 1024), leakedSessions);
+    }
+
+    private static void forceQuit(WebDriver driver, Session session) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            System.err.println("[ResourceMonitor] Warning during forced quit: " + e.getMessage());
+        } finally {
+            // quit() cannot reach a browser whose chromedriver already died
+            session.processes().forEach(ResourceMonitor::killTree);
+            sessionClosed(driver);
+        }
+    }
+
+    /**
+     * ProcessHandle checks the start time before killing, so a recycled pid is left alone.
+     */
+    private static void killTree(ProcessHandle root) {
+        Stream.concat(root.descendants(), Stream.of(root))
+                .filter(ProcessHandle::isAlive)
+                .forEach(process -> {
+                    System.err.println("[ResourceMonitor] Killing orphaned process " + process.pid()
+                            + " (" + process.info().command().orElse("?") + ")");
+                    process.destroyForcibly();
+                });
+    }
+
+    private static void shutdown() {
+        if (sampler != null) {
+            sampler.shutdownNow();
+        }
+
+        new ArrayList<>(openSessions.entrySet()).forEach(entry -> {
+            System.err.println("[ResourceMonitor] Session still open at shutdown: " + entry.getValue());
+            forceQuit(entry.getKey(), entry.getValue());
+        });
+
+        browserProcesses().forEach(ResourceMonitor::killTree);
+    }
+
+    // ── Value types ───────────────────────────────────────────────────────────
+
+    private record Session(String owner, String thread, Instant openedAt, List<ProcessHandle> processes) {
+
+        @Override
+        public String toString() {
+            return "owner=" + owner + ", thread=" + thread + ", openedAt=" + openedAt + ", pids="
+                    + processes.stream().map(process -> String.valueOf(process.pid())).collect(Collectors.joining(","));
+        }
+    }
+
+    record CpuInterval(long cpuMs, double percent) {}
+
+    private record Sample(Instant timestamp, int liveSessions, int browserProcesses,
+                          long browserRssKb, long browserCpuMs, double browserCpuPercent,
+                          long heapUsedBytes, long heapMaxBytes, int jvmThreads) {
+
+        String toCsv() {
+            return timestamp + "," + liveSessions + "," + browserProcesses + "," + browserRssKb + ","
+                    + browserCpuMs + "," + String.format(Locale.ROOT, "%.1f", browserCpuPercent) + ","
+                    + heapUsedBytes + "," + heapMaxBytes + "," + jvmThreads;
+        }
+    }
+}
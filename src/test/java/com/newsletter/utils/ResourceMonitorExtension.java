@@ -0,0 +1,34 @@
+package com.newsletter.utils;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * ResourceMonitorExtension
+ *
+ * Opens and closes a ResourceMonitor recording around each test class
+ * and tags sessions with the class that created them.
+ */
+public class ResourceMonitorExtension implements BeforeAllCallback, BeforeEachCallback, AfterAllCallback {
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        ResourceMonitor.startClass(className(context));
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        ResourceMonitor.setOwner(className(context));
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        ResourceMonitor.finishClass(className(context));
+    }
+
+    private static String className(ExtensionContext context) {
+        return context.getRequiredTestClass().getSimpleName();
+    }
+}
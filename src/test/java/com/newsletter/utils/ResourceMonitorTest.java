@@ -0,0 +1,78 @@
+package com.newsletter.utils;
+
+import com.newsletter.utils.ResourceMonitor.CpuInterval;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Resource Monitor Tests")
+class ResourceMonitorTest {
+
+    @Test
+    @DisplayName("Verify that CPU is reported as the delta since the previous sample")
+    void verifyThatCpuIsPerInterval() {
+        CpuInterval cpu = ResourceMonitor.cpuInterval(
+                Map.of(1L, 5_000L, 2L, 1_000L),
+                Map.of(1L, 5_300L, 2L, 1_200L),
+                1_000);
+
+        assertEquals(500, cpu.cpuMs(), "300 ms + 200 ms used since the last sample");
+        assertEquals(50.0, cpu.percent(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Verify that a pid first seen in this sample counts all of its CPU")
+    void verifyThatNewPidCountsFully() {
+        CpuInterval cpu = ResourceMonitor.cpuInterval(
+                Map.of(1L, 5_000L),
+                Map.of(1L, 5_100L, 2L, 250L),
+                1_000);
+
+        assertEquals(350, cpu.cpuMs());
+    }
+
+    @Test
+    @DisplayName("Verify that a pid gone since the previous sample contributes nothing")
+    void verifyThatExitedPidIsIgnored() {
+        CpuInterval cpu = ResourceMonitor.cpuInterval(
+                Map.of(1L, 5_000L, 2L, 9_000L),
+                Map.of(1L, 5_100L),
+                1_000);
+
+        assertEquals(100, cpu.cpuMs(), "Lifetime CPU of an exited process must not go negative or count");
+    }
+
+    @Test
+    @DisplayName("Verify that a reused pid with a lower total counts as a new process")
+    void verifyThatReusedPidCountsAsNew() {
+        CpuInterval cpu = ResourceMonitor.cpuInterval(
+                Map.of(1L, 5_000L),
+                Map.of(1L, 40L),
+                1_000);
+
+        assertEquals(40, cpu.cpuMs());
+    }
+
+    @Test
+    @DisplayName("Verify that the first sample (zero interval) reports no CPU")
+    void verifyThatZeroIntervalReportsNothing() {
+        CpuInterval cpu = ResourceMonitor.cpuInterval(Map.of(), Map.of(1L, 5_000L), 0);
+
+        assertEquals(0, cpu.cpuMs(), "Lifetime totals must not show up as one interval's usage");
+        assertEquals(0.0, cpu.percent());
+    }
+
+    @Test
+    @DisplayName("Verify that CPU percentage is relative to one core and can exceed 100")
+    void verifyThatPercentIsPerCore() {
+        CpuInterval cpu = ResourceMonitor.cpuInterval(
+                Map.of(1L, 0L, 2L, 0L),
+                Map.of(1L, 500L, 2L, 400L),
+                500);
+
+        assertEquals(180.0, cpu.percent(), 1e-9);
+    }
+}
@@ -0,0 +1,49 @@
+package com.newsletter.utils;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+
+/**
+ * RoundTripExtension
+ *
+ * Tags the session of each test that ran to completion with its test key
+ * for RoundTrips, so failed, aborted and skipped tests stay out of the
+ * report, and writes the report once the whole run has finished.
+ */
+public class RoundTripExtension implements BeforeAllCallback, BeforeEachCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(Report.class, key -> new Report(), Report.class);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        RoundTrips.startTest();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        // Runs before @AfterEach, where TestBase quits the session and RoundTrips records it
+        if (context.getExecutionException().isEmpty()) {
+            RoundTrips.testCompleted(PerformanceGateExtension.testKey(context));
+        }
+    }
+
+    private static class Report implements ExtensionContext.Store.CloseableResource {
+
+        @Override
+        public void close() {
+            try {
+                RoundTrips.write(DriverManager.getTransport());
+            } catch (IOException e) {
+                System.err.println("[RoundTrips] Could not write report: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.newsletter.utils;
+
+import com.newsletter.pages.PageScripts;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * RoundTrips
+ *
+ * Records, per passing test, how many classic WebDriver commands (HTTP)
+ * and BiDi script calls (WebSocket) its session made, and writes them to
+ * {@code round-trips-<transport>-<reads>.json} so runs with different
+ * {@code transport} / {@code batched.reads} settings can be compared.
+ * One-off BiDi event subscriptions made at session start are not counted.
+ */
+public class RoundTrips {
+
+    private static final Path REPORT_DIR = Paths.get(
+            System.getProperty("round.trips.directory", "target/perf")
+    );
+
+    private static final Map<String, Counts> countsByTest = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> currentTest = new ThreadLocal<>();
+
+    private RoundTrips() {}
+
+    public static void startTest() {
+        currentTest.remove();
+    }
+
+    /**
+     * Marks the current thread's test as run to completion, so its session
+     * is recorded when it quits. Failed and aborted tests are never marked.
+     */
+    public static void testCompleted(String testKey) {
+        currentTest.set(testKey);
+    }
+
+    /**
+     * Called when the current thread's session quits.
+     */
+    public static void record(long httpCommands, long biDiCommands) {
+        String testKey = currentTest.get();
+        currentTest.remove();
+        if (testKey == null) return;
+
+        countsByTest.merge(testKey, new Counts(httpCommands, biDiCommands), Counts::plus);
+    }
+
+    public static void write(String transport) throws IOException {
+        if (countsByTest.isEmpty()) return;
+
+        String reads = PageScripts.batchedReads() ? "batched" : "element";
+        Map<String, Counts> sorted = new TreeMap<>(countsByTest);
+        Counts total = sorted.values().stream().reduce(new Counts(0, 0), Counts::plus);
+
+        List<Map<String, Object>> tests = sorted.entrySet().stream().map(entry -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("key", entry.getKey());
+            row.put("httpCommands", entry.getValue().http());
+            row.put("bidiCommands", entry.getValue().biDi());
+            return row;
+        }).collect(Collectors.toList());
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("transport", transport);
+        document.put("reads", reads);
+        document.put("tests", tests.size());
+        document.put("httpCommands", total.http());
+        document.put("bidiCommands", total.biDi());
+        document.put("perTest", tests);
+
+        Files.createDirectories(REPORT_DIR);
+        Path file = REPORT_DIR.resolve("round-trips-" + transport + "-" + reads + ".json");
+        Files.writeString(file, new Json().toJson(document));
+    }
+
+    private record Counts(long http, long biDi) {
+
+        Counts plus(Counts other) {
+            return new Counts(http + other.http, biDi + other.biDi);
+        }
+    }
+}